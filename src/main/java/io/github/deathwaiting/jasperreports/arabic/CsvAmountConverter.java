@@ -0,0 +1,403 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import io.github.deathwaiting.jasperreports.arabic.MonetaryValue.Currency;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A command line converter that appends the arabic and english sentences describing the amounts in CSV/TSV columns,
+ * for data feeds that are produced outside jasper reports, ex:
+ * <pre>
+ * java -jar jasperreports-arabic.jar --currency EGP --columns 3 --header --hindi-digits payments.csv payments-out.csv
+ * </pre>
+ * The input is read in chunks of lines that are converted in parallel, while the output keeps the input order.
+ * Only a limited number of chunks is kept in memory, so files of any size can be converted.
+ * Quoted fields are supported, as long as they don't span multiple lines, a quoted field that is not closed on its line
+ * is reported as an error.
+ * */
+public class CsvAmountConverter {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar jasperreports-arabic.jar --currency <code> --columns <n,...> [options] [input] [output]",
+            "Appends the sentences describing the amounts in the given columns to each row.",
+            "  --currency <code>     one of AED, SYP, SAR, TND, XAU, JOD, BHD, EGP",
+            "  --columns <n,...>     1-based indexes of the amount columns",
+            "  --words <ar,en>       languages of the appended sentences, default is ar",
+            "  --delimiter <char>    field delimiter, use 'tab' for TSV files, default is ','",
+            "  --header              the first line is a header, it gets the names of the appended columns",
+            "  --hindi-digits        convert the digits of the amount columns to hindi numerals",
+            "  --threads <n>         number of conversion threads, default is the number of processors",
+            "  --chunk-size <n>      number of lines converted by each task, default is 10000",
+            "input and output default to the standard input and output, or use '-'.");
+
+    private static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+    private final Currency currency;
+    private final int[] columns;
+    private final char delimiter;
+    private final boolean arabic;
+    private final boolean english;
+    private final boolean hindiDigits;
+    private final int partPrecision;
+
+    /**
+     * @param currency the currency of the amounts
+     * @param columns 0-based indexes of the amount columns
+     * @param delimiter the field delimiter
+     * @param arabic append the arabic sentence of each amount
+     * @param english append the english sentence of each amount
+     * @param hindiDigits convert the digits of the amount columns to hindi numerals
+     * */
+    public CsvAmountConverter(Currency currency, int[] columns, char delimiter, boolean arabic, boolean english, boolean hindiDigits) {
+        this.currency = currency;
+        this.columns = columns.clone();
+        this.delimiter = delimiter;
+        this.arabic = arabic;
+        this.english = english;
+        this.hindiDigits = hindiDigits;
+        this.partPrecision = new MonetaryValue.CurrencyInfo(currency).getPartPrecision();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String currency = null;
+        String columns = null;
+        String words = "ar";
+        char delimiter = ',';
+        boolean header = false;
+        boolean hindiDigits = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkSize = DEFAULT_CHUNK_SIZE;
+        var files = new ArrayList<String>();
+        CsvAmountConverter converter;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--currency":
+                        currency = args[++i];
+                        break;
+                    case "--columns":
+                        columns = args[++i];
+                        break;
+                    case "--words":
+                        words = args[++i];
+                        break;
+                    case "--delimiter":
+                        delimiter = parseDelimiter(args[++i]);
+                        break;
+                    case "--header":
+                        header = true;
+                        break;
+                    case "--hindi-digits":
+                        hindiDigits = true;
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--chunk-size":
+                        chunkSize = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("unknown option " + args[i]);
+                        }
+                        files.add(args[i]);
+                }
+            }
+            if (currency == null || columns == null || files.size() > 2 || threads < 1 || chunkSize < 1) {
+                throw new IllegalArgumentException("missing or invalid arguments");
+            }
+            var wordsList = parseWords(words);
+            converter = new CsvAmountConverter(parseCurrency(currency), parseColumns(columns), delimiter,
+                    wordsList.contains("ar"), wordsList.contains("en"), hindiDigits);
+        } catch (RuntimeException e) {
+            if (e instanceof IllegalArgumentException && e.getMessage() != null) {
+                System.err.println(e.getMessage());
+            }
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        var input = files.size() > 0 ? files.get(0) : "-";
+        var output = files.size() > 1 ? files.get(1) : "-";
+        try (var reader = "-".equals(input) ? new BufferedReader(new InputStreamReader(System.in, UTF_8)) : Files.newBufferedReader(Path.of(input), UTF_8);
+             var writer = "-".equals(output) ? new BufferedWriter(new OutputStreamWriter(System.out, UTF_8)) : Files.newBufferedWriter(Path.of(output), UTF_8)) {
+            converter.convert(reader, writer, header, threads, chunkSize);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (NoSuchFileException e) {
+            System.err.println("file not found: " + e.getFile());
+            System.exit(1);
+        } catch (AccessDeniedException e) {
+            System.err.println("access denied: " + e.getFile());
+            System.exit(1);
+        } catch (CharacterCodingException e) {
+            System.err.println("the input is not valid UTF-8");
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static char parseDelimiter(String delimiter) {
+        if ("tab".equals(delimiter) || "\\t".equals(delimiter)) {
+            return '\t';
+        }
+        if (delimiter.length() != 1) {
+            throw new IllegalArgumentException("delimiter must be a single character");
+        }
+        return delimiter.charAt(0);
+    }
+
+    private static Currency parseCurrency(String currency) {
+        try {
+            return Currency.valueOf(currency);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown currency " + currency);
+        }
+    }
+
+    private static List<String> parseWords(String words) {
+        var languages = List.of(words.split(","));
+        if (languages.isEmpty()) {
+            throw new IllegalArgumentException("--words needs at least one language");
+        }
+        for (String language : languages) {
+            if (!"ar".equals(language) && !"en".equals(language)) {
+                throw new IllegalArgumentException("unknown language '" + language + "' in --words, use ar or en");
+            }
+        }
+        return languages;
+    }
+
+    private static int[] parseColumns(String columns) {
+        var indexes = columns.split(",");
+        var result = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            result[i] = Integer.parseInt(indexes[i].trim()) - 1;
+            if (result[i] < 0) {
+                throw new IllegalArgumentException("column indexes start from 1");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts all the lines of the reader and writes them to the writer, in the same order.
+     * @param reader the CSV input
+     * @param writer the CSV output, it is flushed but not closed
+     * @param header the first line is a header
+     * @param threads number of conversion threads
+     * @param chunkSize number of lines converted by each task
+     * @throws IllegalArgumentException if an amount can't be parsed, is negative or has more decimal places than the
+     * currency precision, or if a quoted field is not closed on its line, the message contains the line number
+     * */
+    public void convert(BufferedReader reader, Writer writer, boolean header, int threads, int chunkSize) throws IOException, InterruptedException {
+        if (header) {
+            var headerLine = reader.readLine();
+            if (headerLine == null) {
+                return;
+            }
+            try {
+                writer.write(convertHeader(headerLine));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("line 1: " + e.getMessage(), e);
+            }
+            writer.write('\n');
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        var pending = new ArrayDeque<Future<String>>();
+        int maxPending = threads * 2;
+        long lineNumber = header ? 2 : 1;
+        try {
+            List<String> chunk;
+            while (!(chunk = readChunk(reader, chunkSize)).isEmpty()) {
+                var chunkLines = chunk;
+                var firstLineNumber = lineNumber;
+                pending.add(executor.submit(() -> convertChunk(chunkLines, firstLineNumber)));
+                lineNumber += chunk.size();
+                if (pending.size() >= maxPending) {
+                    writer.write(await(pending.poll()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                writer.write(await(pending.poll()));
+            }
+            writer.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> readChunk(BufferedReader reader, int chunkSize) throws IOException {
+        var chunk = new ArrayList<String>(chunkSize);
+        String line;
+        while (chunk.size() < chunkSize && (line = reader.readLine()) != null) {
+            chunk.add(line);
+        }
+        return chunk;
+    }
+
+    private static String await(Future<String> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private String convertChunk(List<String> lines, long firstLineNumber) {
+        var result = new StringBuilder();
+        long lineNumber = firstLineNumber;
+        for (String line : lines) {
+            try {
+                result.append(convertLine(line)).append('\n');
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(String.format("line %d: %s", lineNumber, e.getMessage()), e);
+            }
+            lineNumber++;
+        }
+        return result.toString();
+    }
+
+    String convertHeader(String line) {
+        var fields = splitFields(line);
+        var result = new StringBuilder(line);
+        for (int column : columns) {
+            var name = column < fields.size() ? fields.get(column) : "column" + (column + 1);
+            if (arabic) {
+                result.append(delimiter).append(quote(name + "_ar"));
+            }
+            if (english) {
+                result.append(delimiter).append(quote(name + "_en"));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Converts a single CSV line.
+     * @param line the CSV line
+     * @return the line after converting the digits of the amount columns, if enabled, followed by the appended sentences
+     * */
+    String convertLine(String line) {
+        var fields = splitFields(line);
+        var appended = new ArrayList<String>();
+        for (int column : columns) {
+            var amount = column < fields.size() ? fields.get(column).trim() : "";
+            if (amount.isEmpty()) {
+                if (arabic) {
+                    appended.add("");
+                }
+                if (english) {
+                    appended.add("");
+                }
+                continue;
+            }
+            var value = MonetaryValue.of(parseAmount(amount), currency);
+            if (arabic) {
+                appended.add(value.asArabicSentence());
+            }
+            if (english) {
+                appended.add(value.asEnglishSentence());
+            }
+            if (hindiDigits) {
+                fields.set(column, HindiNumeralsUtils.toHindiNumerals(fields.get(column)));
+            }
+        }
+
+        var result = new StringBuilder(line.length() * 4);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                result.append(delimiter);
+            }
+            result.append(quote(fields.get(i)));
+        }
+        for (String sentence : appended) {
+            result.append(delimiter).append(quote(sentence));
+        }
+        return result.toString();
+    }
+
+    private BigDecimal parseAmount(String amount) {
+        BigDecimal value;
+        try {
+            value = new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("invalid amount '%s'", amount), e);
+        }
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException(String.format("negative amount '%s'", amount));
+        }
+        if (value.stripTrailingZeros().scale() > partPrecision) {
+            throw new IllegalArgumentException(String.format("amount '%s' has more than %d decimal places, the precision of %s",
+                    amount, partPrecision, currency));
+        }
+        return value;
+    }
+
+    private List<String> splitFields(String line) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String quote(String field) {
+        if (field.indexOf(delimiter) < 0 && field.indexOf('"') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
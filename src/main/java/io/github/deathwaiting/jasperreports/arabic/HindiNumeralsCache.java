@@ -0,0 +1,130 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import net.sf.jasperreports.engine.JasperReport;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache for the results of {@link HindiNumeralsUtils#toHindiNumerals(String)}, so the values repeated within a
+ * report fill - like dates, page numbers and codes - are converted once and share a single string instance in the
+ * filled report.
+ * <p>
+ * The cache is opt-in, it is used by the current thread until it is closed, ex:
+ * <pre>
+ * try (var cache = HindiNumeralsCache.open(jasperReport)) {
+ *     jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
+ * }
+ * </pre>
+ * The cache is also used by the threads started while it is open, like the threads jasper starts to fill subreports.
+ * Once closed, it is no longer used by any thread. Nested caches must be closed in the reverse order of opening.
+ * */
+public class HindiNumeralsCache implements AutoCloseable {
+    /**
+     * Report property holding the maximum number of cached values, a value of 0 disables the cache.
+     * */
+    public static final String PROPERTY_CACHE_SIZE = "io.github.deathwaiting.jasperreports.arabic.hindi.numerals.cache.size";
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final InheritableThreadLocal<HindiNumeralsCache> current = new InheritableThreadLocal<>();
+
+    private final HindiNumeralsCache previous;
+    private final Map<String, String> values;
+    private volatile boolean closed;
+
+    /**
+     * Opens a cache for the current thread, sized by the {@link #PROPERTY_CACHE_SIZE} property of the given report.
+     * @param report the report that is going to be filled
+     * @return the opened cache, it must be closed when the fill completes
+     * */
+    public static HindiNumeralsCache open(JasperReport report) {
+        var size = report.getProperty(PROPERTY_CACHE_SIZE);
+        if (size == null || size.isBlank()) {
+            return open(DEFAULT_CACHE_SIZE);
+        }
+        return open(Integer.parseInt(size.trim()));
+    }
+
+    /**
+     * Opens a cache for the current thread.
+     * @param maxSize the maximum number of cached values, the least recently used values are evicted first
+     * @return the opened cache, it must be closed when the fill completes
+     * */
+    public static HindiNumeralsCache open(int maxSize) {
+        var cache = new HindiNumeralsCache(current.get(), maxSize);
+        current.set(cache);
+        return cache;
+    }
+
+    /**
+     * @return the open cache of the current thread, or null if there is none
+     * */
+    static HindiNumeralsCache current() {
+        var cache = current.get();
+        return cache == null || cache.closed ? null : cache;
+    }
+
+    private HindiNumeralsCache(HindiNumeralsCache previous, int maxSize) {
+        this.previous = previous;
+        if (maxSize <= 0) {
+            this.values = null;
+        } else {
+            this.values = new LinkedHashMap<>(Math.min(maxSize, 64), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+    }
+
+    String get(String str, UnaryOperator<String> conversion) {
+        if (values == null) {
+            return conversion.apply(str);
+        }
+        // subreport threads share the cache of the master report
+        synchronized (values) {
+            return values.computeIfAbsent(str, conversion);
+        }
+    }
+
+    /**
+     * @return the number of cached values
+     * */
+    public int size() {
+        if (values == null) {
+            return 0;
+        }
+        synchronized (values) {
+            return values.size();
+        }
+    }
+
+    /**
+     * Releases the cached values, and restores the cache that was used by the current thread before opening this one.
+     * Closing a closed cache has no effect.
+     * @throws IllegalStateException if the cache is not the current cache of this thread, like when a cache opened after
+     * it is still open
+     * */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (current.get() != this) {
+            throw new IllegalStateException("the cache must be closed by the thread that opened it, after closing the caches opened after it");
+        }
+        closed = true;
+        if (values != null) {
+            synchronized (values) {
+                values.clear();
+            }
+        }
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+}
@@ -10,16 +10,35 @@ import java.util.TimeZone;
 
 /**
  * A JasperReports FormatFactory that makes reports use hindi numerals for Dates and numeric fields.
+ * When filling for spreadsheet output, the formats keep the arabic numerals, see {@link HindiNumeralsXlsxSupport}.
  * */
 public class HindiNumeralsFormatFactory extends DefaultFormatFactory {
+    static final String DEFAULT_NUMBER_PATTERN = "#,###";
+
+    private final boolean spreadsheet;
+
+    public HindiNumeralsFormatFactory() {
+        this(false);
+    }
+
+    /**
+     * @param spreadsheet true to keep the arabic numerals, for reports filled for spreadsheet output
+     * */
+    HindiNumeralsFormatFactory(boolean spreadsheet) {
+        this.spreadsheet = spreadsheet;
+    }
+
     @Override
     public NumberFormat createNumberFormat(String pattern, Locale locale) {
         String numPattern = pattern;
         if (pattern == null || pattern.isBlank()) {
-            numPattern = "#,###";
+            numPattern = DEFAULT_NUMBER_PATTERN;
         }
 
         var numberFormat = super.createNumberFormat(numPattern, locale);
+        if (spreadsheet) {
+            return numberFormat;
+        }
         var decimalFormat = (DecimalFormat)numberFormat;
         var symbols = decimalFormat.getDecimalFormatSymbols();
         symbols.setZeroDigit('٠');
@@ -31,6 +50,9 @@ public class HindiNumeralsFormatFactory extends DefaultFormatFactory {
     @Override
     public DateFormat createDateFormat(String pattern, Locale locale, TimeZone tz) {
         var dateFormat = super.createDateFormat(pattern, locale, tz);
+        if (spreadsheet) {
+            return dateFormat;
+        }
         var numberFormat = dateFormat.getNumberFormat();
         var decimalFormat = (DecimalFormat)numberFormat;
         var symbols = decimalFormat.getDecimalFormatSymbols();
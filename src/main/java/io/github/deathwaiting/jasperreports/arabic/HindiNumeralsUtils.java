@@ -14,13 +14,22 @@ public class HindiNumeralsUtils {
     /**
      * Converts are Arabic numerals (1,2,3 ..) in the string to Hindi numerals (١, ٢, ٣ , ...)
      * @param str the string to convert
-     * @return new string after replacing the arabic numerals
+     * @return new string after replacing the arabic numerals. Repeated values share the same instance while a
+     * {@link HindiNumeralsCache} is open.
      * */
     @Function("TO_HINDU_NUMERALS")
     @FunctionParameters({
             @FunctionParameter("string"),
     })
     public static String toHindiNumerals(String str) {
+        var cache = HindiNumeralsCache.current();
+        if (cache != null) {
+            return cache.get(str, HindiNumeralsUtils::replaceNumerals);
+        }
+        return replaceNumerals(str);
+    }
+
+    private static String replaceNumerals(String str) {
         String r = str.replace("0", "٠");
         r = r.replace("1", "١");
         r = r.replace("2", "٢");
@@ -0,0 +1,417 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRPrintElement;
+import net.sf.jasperreports.engine.JRPrintFrame;
+import net.sf.jasperreports.engine.JRPrintPage;
+import net.sf.jasperreports.engine.JRPrintText;
+import net.sf.jasperreports.engine.JRPropertiesMap;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.fill.JRTemplatePrintElement;
+import net.sf.jasperreports.engine.util.DefaultFormatFactory;
+import net.sf.jasperreports.engine.util.JRDataUtils;
+import net.sf.jasperreports.export.SimpleXlsxReportConfiguration;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+/**
+ * Utilities for exporting reports that use hindi numerals to XLSX while keeping numeric cells numeric.
+ * <p>
+ * Instead of converting numbers to strings of hindi numerals, the report is filled with plain digits using the
+ * parameters set by {@link #spreadsheetFill(Map)}, then exported with Excel number format codes that ask Excel to
+ * display the digits as hindi numerals, ex:
+ * <pre>
+ * HindiNumeralsXlsxSupport.spreadsheetFill(parameters);
+ * jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
+ * var configuration = new SimpleXlsxReportConfiguration();
+ * HindiNumeralsXlsxSupport.configure(configuration, jasperPrint);
+ * HindiNumeralsXlsxSupport.setDefaultCellPatterns(jasperPrint);
+ * exporter.setConfiguration(configuration);
+ * </pre>
+ * */
+public class HindiNumeralsXlsxSupport {
+    /**
+     * Excel locale code that substitutes the displayed digits with Arabic-Indic (hindi) digits.
+     * */
+    public static final String EXCEL_HINDI_DIGITS_LOCALE = "[$-2000000]";
+
+    /**
+     * Element property holding the Excel format code of a cell, it is used by the jasper XLS/XLSX exporters.
+     * */
+    public static final String PROPERTY_CELL_PATTERN = "net.sf.jasperreports.export.xls.pattern";
+
+    private static final String NUMBER_PART_CHARS = "#0123456789,.";
+    // characters that Excel displays without quotes
+    private static final String EXCEL_UNQUOTED_LITERALS = "$+(:^{<=-/)!&~}> ";
+
+    private HindiNumeralsXlsxSupport() {}
+
+    /**
+     * Makes the report filled with the given parameters keep the arabic numerals of numeric and date fields, by setting
+     * a {@link HindiNumeralsFormatFactory} for spreadsheet output as the {@link JRParameter#REPORT_FORMAT_FACTORY}
+     * parameter. The hindi numerals are then displayed by the format codes set by
+     * {@link #configure(SimpleXlsxReportConfiguration, JasperPrint)}.
+     * Strings converted by {@link HindiNumeralsUtils#toHindiNumerals(String)} are exported as text cells, so they are
+     * still converted.
+     * <p>
+     * The mode applies only to this fill. Subreports receive it through their parameters, by passing the format factory
+     * of the master report, ex:
+     * <pre>
+     * &lt;subreportParameter name="REPORT_FORMAT_FACTORY"&gt;
+     *     &lt;subreportParameterExpression&gt;&lt;![CDATA[$P{REPORT_FORMAT_FACTORY}]]&gt;&lt;/subreportParameterExpression&gt;
+     * &lt;/subreportParameter&gt;
+     * </pre>
+     * @param parameters the parameters of the report fill
+     * @return the given parameters
+     * */
+    public static Map<String, Object> spreadsheetFill(Map<String, Object> parameters) {
+        parameters.put(JRParameter.REPORT_FORMAT_FACTORY, new HindiNumeralsFormatFactory(true));
+        return parameters;
+    }
+
+    /**
+     * Enables cell type detection on the given configuration, and sets Excel format codes that display hindi numerals for
+     * the patterns of the numeric and date fields in the given report, see {@link #createFormatPatternsMap(JasperPrint)}.
+     * The report is not modified, the fields that have no pattern get their format codes from
+     * {@link #setDefaultCellPatterns(JasperPrint)}.
+     * @param configuration the XLSX export configuration to update
+     * @param jasperPrint the filled report that will be exported
+     * */
+    public static void configure(SimpleXlsxReportConfiguration configuration, JasperPrint jasperPrint) {
+        var patterns = new HashMap<String, String>();
+        if (configuration.getFormatPatternsMap() != null) {
+            patterns.putAll(configuration.getFormatPatternsMap());
+        }
+        patterns.putAll(createFormatPatternsMap(jasperPrint));
+        configuration.setDetectCellType(Boolean.TRUE);
+        configuration.setFormatPatternsMap(patterns);
+    }
+
+    /**
+     * Creates a map from the patterns of the numeric and date fields in the given report to Excel format codes that
+     * display hindi numerals. The map can be used as the format patterns map of XLS/XLSX export configurations.
+     * @param jasperPrint the filled report
+     * @return map from jasper patterns to Excel format codes
+     * @throws IllegalArgumentException if a numeric field has a pattern that Excel can't display, see
+     * {@link #toExcelNumberPattern(String)}
+     * */
+    public static Map<String, String> createFormatPatternsMap(JasperPrint jasperPrint) {
+        var patterns = new HashMap<String, String>();
+        forEachText(jasperPrint, text -> {
+            var pattern = text.getPattern();
+            if (pattern == null || pattern.isBlank() || patterns.containsKey(pattern)) {
+                return;
+            }
+            var valueClass = loadValueClass(text.getValueClassName());
+            if (valueClass == null) {
+                return;
+            }
+            if (Number.class.isAssignableFrom(valueClass)) {
+                patterns.put(pattern, toExcelNumberPattern(pattern));
+            } else if (Date.class.isAssignableFrom(valueClass)) {
+                patterns.put(pattern, toExcelDatePattern(pattern));
+            }
+        });
+        return patterns;
+    }
+
+    /**
+     * Updates the given report, so the numeric and date fields that have no pattern display hindi numerals when exported,
+     * as they can't be mapped by the format patterns map. The Excel format code is set on each of these elements through
+     * the {@value #PROPERTY_CELL_PATTERN} property, using the same default patterns as {@link HindiNumeralsFormatFactory}.
+     * Elements that already have this property are left as they are.
+     * @param jasperPrint the filled report, it is modified in place
+     * */
+    public static void setDefaultCellPatterns(JasperPrint jasperPrint) {
+        forEachText(jasperPrint, text -> {
+            var pattern = text.getPattern();
+            if (pattern != null && !pattern.isBlank()) {
+                return;
+            }
+            var valueClass = loadValueClass(text.getValueClassName());
+            var properties = text.getPropertiesMap();
+            if (valueClass == null || (properties != null && properties.getProperty(PROPERTY_CELL_PATTERN) != null)) {
+                return;
+            }
+            if (Number.class.isAssignableFrom(valueClass)) {
+                setCellPattern(text, toExcelNumberPattern(null));
+            } else if (Date.class.isAssignableFrom(valueClass)) {
+                setCellPattern(text, toExcelDatePattern(defaultDatePattern(getLocale(text.getLocaleCode()))));
+            }
+        });
+    }
+
+    private static void setCellPattern(JRPrintText text, String cellPattern) {
+        if (text instanceof JRTemplatePrintElement) {
+            // filled elements may have no properties, or share them, so they get an updated copy
+            var element = (JRTemplatePrintElement) text;
+            var properties = element.getPropertiesMap() == null ? new JRPropertiesMap() : element.getPropertiesMap().cloneProperties();
+            properties.setProperty(PROPERTY_CELL_PATTERN, cellPattern);
+            element.setPropertiesMap(properties);
+        } else {
+            text.getPropertiesMap().setProperty(PROPERTY_CELL_PATTERN, cellPattern);
+        }
+    }
+
+    private static void forEachText(JasperPrint jasperPrint, Consumer<JRPrintText> action) {
+        for (JRPrintPage page : jasperPrint.getPages()) {
+            forEachText(page.getElements(), action);
+        }
+    }
+
+    private static void forEachText(List<JRPrintElement> elements, Consumer<JRPrintText> action) {
+        for (JRPrintElement element : elements) {
+            if (element instanceof JRPrintFrame) {
+                forEachText(((JRPrintFrame) element).getElements(), action);
+            } else if (element instanceof JRPrintText) {
+                action.accept((JRPrintText) element);
+            }
+        }
+    }
+
+    private static Locale getLocale(String localeCode) {
+        return localeCode == null ? Locale.getDefault() : JRDataUtils.getLocale(localeCode);
+    }
+
+    /**
+     * @return the pattern used by jasper for date fields that have no pattern
+     * */
+    private static String defaultDatePattern(Locale locale) {
+        var dateFormat = new DefaultFormatFactory().createDateFormat(null, locale, TimeZone.getDefault());
+        if (dateFormat instanceof SimpleDateFormat) {
+            return ((SimpleDateFormat) dateFormat).toPattern();
+        }
+        return "yyyy-MM-dd HH:mm:ss";
+    }
+
+    private static Class<?> loadValueClass(String className) {
+        if (className == null) {
+            return null;
+        }
+        try {
+            return Class.forName(className, false, HindiNumeralsXlsxSupport.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts a {@link java.text.DecimalFormat} pattern to an Excel number format code that displays hindi numerals.
+     * ex: {@code #,##0.00} becomes {@code [$-2000000]#,##0.00}, and {@code #,##0 EGP} becomes
+     * {@code [$-2000000]#,##0 "EGP"}.
+     * The text of the prefixes and suffixes is quoted, and the currency sign is dropped as it has no Excel equivalent.
+     * @param pattern the jasper number pattern, a blank pattern is converted to the default pattern of
+     *                {@link HindiNumeralsFormatFactory}
+     * @return the Excel number format code
+     * @throws IllegalArgumentException if the pattern uses the per mille sign, Excel can't multiply the displayed values
+     * by 1000
+     * */
+    public static String toExcelNumberPattern(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            // Excel shows nothing for a zero formatted with "#,###", while java shows "0"
+            return EXCEL_HINDI_DIGITS_LOCALE + "#,##0";
+        }
+        var result = new StringBuilder(EXCEL_HINDI_DIGITS_LOCALE);
+        // prefix and suffix text is held until the next special character, so it is quoted once
+        var literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                i = readQuotedLiteral(pattern, i, literal);
+                continue;
+            }
+            if (NUMBER_PART_CHARS.indexOf(c) >= 0) {
+                appendExcelLiteral(result, literal);
+                i = appendNumberPart(pattern, i, result);
+                continue;
+            }
+            if (c == '‰') {
+                throw new IllegalArgumentException("the per mille sign has no Excel equivalent, in pattern: " + pattern);
+            }
+            if (c == ';' || c == '%' || EXCEL_UNQUOTED_LITERALS.indexOf(c) >= 0) {
+                appendExcelLiteral(result, literal);
+                result.append(c);
+                if (c == ';') {
+                    result.append(EXCEL_HINDI_DIGITS_LOCALE);
+                }
+            } else if (c != '¤') {
+                literal.append(c);
+            }
+            i++;
+        }
+        appendExcelLiteral(result, literal);
+        return result.toString();
+    }
+
+    /**
+     * Appends the number part of a number pattern, that starts at the given index, ex: {@code #,##0.00} or {@code 0.###E0}.
+     * @return the index after the number part
+     * */
+    private static int appendNumberPart(String pattern, int start, StringBuilder result) {
+        int i = start;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (NUMBER_PART_CHARS.indexOf(c) >= 0) {
+                result.append(c);
+            } else if (c == 'E' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '0') {
+                result.append("E+");
+            } else {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Converts a {@link java.text.SimpleDateFormat} pattern to an Excel date format code that displays hindi numerals.
+     * ex: {@code dd/MM/yyyy} becomes {@code [$-2000000]dd/MM/yyyy}.
+     * Pattern letters that have no Excel equivalent, like time zones and week numbers, are omitted along with the
+     * separators before them. Excel shows 12-hour clocks only with an AM/PM marker, so it is appended to 12-hour
+     * patterns that have none.
+     * @param pattern the jasper date pattern, a blank pattern is converted to the default date pattern of the
+     *                default locale
+     * @return the Excel date format code
+     * */
+    public static String toExcelDatePattern(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            pattern = defaultDatePattern(Locale.getDefault());
+        }
+        var result = new StringBuilder(EXCEL_HINDI_DIGITS_LOCALE);
+        // literals are held until the next field, so they are dropped along with an omitted field
+        var literals = new StringBuilder();
+        boolean fieldAppended = false;
+        boolean lastFieldOmitted = false;
+        boolean twelveHours = false;
+        boolean amPm = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                var literal = new StringBuilder();
+                i = readQuotedLiteral(pattern, i, literal);
+                appendExcelLiteral(literals, literal);
+                continue;
+            }
+            if (!Character.isLetter(c)) {
+                literals.append(c);
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < pattern.length() && pattern.charAt(end) == c) {
+                end++;
+            }
+            var field = toExcelDateField(c, end - i);
+            if (field == null) {
+                lastFieldOmitted = true;
+            } else {
+                if (!(lastFieldOmitted && !fieldAppended)) {
+                    result.append(literals);
+                }
+                result.append(field);
+                fieldAppended = true;
+                lastFieldOmitted = false;
+                twelveHours |= c == 'h' || c == 'K';
+                amPm |= c == 'a';
+            }
+            literals.setLength(0);
+            i = end;
+        }
+        if (!lastFieldOmitted) {
+            result.append(literals);
+        }
+        if (twelveHours && !amPm) {
+            result.append(" AM/PM");
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return the Excel code of a date pattern field, or null if it has no Excel equivalent
+     * */
+    private static String toExcelDateField(char letter, int count) {
+        switch (letter) {
+            case 'y':
+            case 'Y':
+                return count == 2 ? "yy" : "yyyy";
+            case 'M':
+            case 'd':
+            case 'H':
+            case 'h':
+            case 'm':
+            case 's':
+                return String.valueOf(letter).repeat(count);
+            case 'k':
+                return "H".repeat(count);
+            case 'K':
+                return "h".repeat(count);
+            case 'S':
+                return "0".repeat(Math.min(count, 3));
+            case 'a':
+                return "AM/PM";
+            case 'E':
+                return count >= 4 ? "dddd" : "ddd";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Reads a java quoted literal that starts at the given quote, two quotes are read as a single quote.
+     * @return the index after the closing quote
+     * */
+    private static int readQuotedLiteral(String pattern, int start, StringBuilder literal) {
+        if (start + 1 < pattern.length() && pattern.charAt(start + 1) == '\'') {
+            literal.append('\'');
+            return start + 2;
+        }
+        int i = start + 1;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            literal.append(c);
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Appends the given text as an Excel quoted literal, then clears it.
+     * */
+    private static void appendExcelLiteral(StringBuilder result, StringBuilder literal) {
+        if (literal.length() == 0) {
+            return;
+        }
+        int start = 0;
+        while (start <= literal.length()) {
+            int quote = literal.indexOf("\"", start);
+            int end = quote < 0 ? literal.length() : quote;
+            if (end > start) {
+                result.append('"').append(literal, start, end).append('"');
+            }
+            if (quote < 0) {
+                break;
+            }
+            // a double quote can't be part of a quoted literal, so it is escaped
+            result.append("\\\"");
+            start = quote + 1;
+        }
+        literal.setLength(0);
+    }
+}
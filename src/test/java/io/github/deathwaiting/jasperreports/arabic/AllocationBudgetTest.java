@@ -0,0 +1,103 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static io.github.deathwaiting.jasperreports.arabic.MonetaryValue.Currency.EGP;
+import static java.time.ZoneOffset.UTC;
+import static java.util.TimeZone.getTimeZone;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the garbage produced by the hot conversion paths. Each call is warmed up first, then the bytes allocated by the
+ * current thread are averaged over many calls and compared to a per-call budget.
+ * The allocations differ between JDK releases, so the budgets are kept per JDK feature version, about 15% over the
+ * allocations measured on that version, which are noted next to each budget. The tests are skipped on versions that were
+ * not measured, and when running interpreted or with java agents, like coverage agents, that change the allocations.
+ * Update both when a conversion gets cheaper.
+ * */
+class AllocationBudgetTest {
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 10_000;
+
+    private static final BigDecimal AMOUNT = new BigDecimal("10781234.45");
+    private static final Date DATE = Date.from(LocalDate.of(2023, 12, 12).atStartOfDay().toInstant(UTC));
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static volatile Object sink;
+
+    @BeforeAll
+    static void setup() {
+        var bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "thread allocation measurement is not supported by this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "thread allocation measurement is not supported by this JVM");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        var jvmArguments = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        assumeTrue(jvmArguments.stream().noneMatch(argument -> argument.equals("-Xint") || argument.startsWith("-javaagent")),
+                "allocations are not representative in interpreted mode or with java agents");
+    }
+
+    @Test
+    void testToHindiNumeralsAllocation() {
+        // measured 672 bytes per call on JDK 17
+        assertAllocationWithin(Map.of(17, 768L), "HindiNumeralsUtils.toHindiNumerals",
+                () -> HindiNumeralsUtils.toHindiNumerals("Invoice 2023-12-12 #10781234"));
+    }
+
+    @Test
+    void testMonetaryValueInArabicAllocation() {
+        // measured 24,000 - 25,700 bytes per call on JDK 17
+        assertAllocationWithin(Map.of(17, 29_500L), "MonetaryValue.inArabic", () -> MonetaryValue.inArabic(AMOUNT, EGP));
+    }
+
+    @Test
+    void testMonetaryValueInEnglishAllocation() {
+        // measured 19,600 - 21,300 bytes per call on JDK 17
+        assertAllocationWithin(Map.of(17, 24_500L), "MonetaryValue.inEnglish", () -> MonetaryValue.inEnglish(AMOUNT, EGP));
+    }
+
+    @Test
+    void testHindiNumberFormatAllocation() {
+        var numberFormat = new HindiNumeralsFormatFactory().createNumberFormat("#,##0.00", Locale.ENGLISH);
+        // measured 272 bytes per call on JDK 17
+        assertAllocationWithin(Map.of(17, 312L), "HindiNumeralsFormatFactory number format", () -> numberFormat.format(AMOUNT));
+    }
+
+    @Test
+    void testHindiDateFormatAllocation() {
+        var dateFormat = new HindiNumeralsFormatFactory().createDateFormat("dd/MM/yyyy", Locale.ENGLISH, getTimeZone(UTC));
+        // measured 632 bytes per call on JDK 17
+        assertAllocationWithin(Map.of(17, 728L), "HindiNumeralsFormatFactory date format", () -> dateFormat.format(DATE));
+    }
+
+    /**
+     * @param budgets the allowed bytes per call, by JDK feature version
+     * */
+    private static void assertAllocationWithin(Map<Integer, Long> budgets, String name, Supplier<Object> call) {
+        int jdkVersion = Runtime.version().feature();
+        var budget = budgets.get(jdkVersion);
+        assumeTrue(budget != null, () -> "no allocation budget was measured for JDK " + jdkVersion);
+        long budgetBytesPerCall = budget;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = call.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink = call.get();
+        }
+        long bytesPerCall = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_CALLS;
+        assertTrue(bytesPerCall <= budgetBytesPerCall,
+                () -> String.format("%s allocates %d bytes per call, budget is %d bytes", name, bytesPerCall, budgetBytesPerCall));
+    }
+}
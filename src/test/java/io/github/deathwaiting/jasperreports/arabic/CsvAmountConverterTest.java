@@ -0,0 +1,62 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+
+import static io.github.deathwaiting.jasperreports.arabic.MonetaryValue.Currency.EGP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvAmountConverterTest {
+    @Test
+    void testConvertLine() {
+        var converter = new CsvAmountConverter(EGP, new int[]{1}, ',', true, true, true);
+        var expected = "\"Doe, John\",١٠٧٨١٢٣٤.٤٥,"
+                + MonetaryValue.inArabic("10781234.45", EGP) + ","
+                + MonetaryValue.inEnglish("10781234.45", EGP);
+        assertEquals(expected, converter.convertLine("\"Doe, John\",10781234.45"));
+        assertEquals("a,,,", converter.convertLine("a,"));
+    }
+
+    @Test
+    void testRejectsNegativeAmounts() {
+        var converter = new CsvAmountConverter(EGP, new int[]{0}, ',', true, false, false);
+        var input = new BufferedReader(new StringReader("10\n-12.5\n"));
+        var error = assertThrows(IllegalArgumentException.class, () -> converter.convert(input, new StringWriter(), false, 2, 1));
+        assertEquals("line 2: negative amount '-12.5'", error.getMessage());
+    }
+
+    @Test
+    void testRejectsAmountsMorePreciseThanCurrency() {
+        var converter = new CsvAmountConverter(EGP, new int[]{0}, ',', true, false, false);
+        var input = new BufferedReader(new StringReader("12.340\n12.345\n"));
+        var error = assertThrows(IllegalArgumentException.class, () -> converter.convert(input, new StringWriter(), false, 2, 1));
+        assertEquals("line 2: amount '12.345' has more than 2 decimal places, the precision of EGP", error.getMessage());
+    }
+
+    @Test
+    void testRejectsUnterminatedQuotedFields() {
+        var converter = new CsvAmountConverter(EGP, new int[]{2}, ',', true, false, false);
+        var input = new BufferedReader(new StringReader("a,10\n\"Doe,\n John\",12.5\n"));
+        var error = assertThrows(IllegalArgumentException.class, () -> converter.convert(input, new StringWriter(), false, 2, 1));
+        assertEquals("line 2: unterminated quoted field", error.getMessage());
+    }
+
+    @Test
+    void testConvertKeepsOrder() throws Exception {
+        var converter = new CsvAmountConverter(EGP, new int[]{0}, '\t', false, true, false);
+        var input = new StringBuilder("amount\n");
+        var expected = new StringBuilder("amount\tamount_en\n");
+        for (int i = 1; i <= 1000; i++) {
+            input.append(i).append('\n');
+            expected.append(i).append('\t').append(MonetaryValue.inEnglish(new BigDecimal(i), EGP)).append('\n');
+        }
+        var output = new StringWriter();
+        converter.convert(new BufferedReader(new StringReader(input.toString())), output, true, 4, 7);
+        assertEquals(expected.toString(), output.toString());
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.deathwaiting.jasperreports.arabic.HindiNumeralsUtils.toHindiNumerals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HindiNumeralsCacheTest {
+    @Test
+    void testRepeatedValuesShareInstance() {
+        try (var cache = HindiNumeralsCache.open(16)) {
+            var first = toHindiNumerals(new String("page 12"));
+            assertEquals("page ١٢", first);
+            assertSame(first, toHindiNumerals(new String("page 12")));
+            assertEquals(1, cache.size());
+        }
+        assertNotSame(toHindiNumerals("page 12"), toHindiNumerals("page 12"));
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        try (var cache = HindiNumeralsCache.open(2)) {
+            toHindiNumerals("1");
+            toHindiNumerals("2");
+            toHindiNumerals("3");
+            assertEquals(2, cache.size());
+        }
+    }
+
+    @Test
+    void testDisabledCache() {
+        try (var cache = HindiNumeralsCache.open(0)) {
+            assertEquals("١٢٣", toHindiNumerals("123"));
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    void testNestedCaches() {
+        var outer = HindiNumeralsCache.open(16);
+        var inner = HindiNumeralsCache.open(16);
+        assertSame(inner, HindiNumeralsCache.current());
+        assertThrows(IllegalStateException.class, outer::close);
+        assertSame(inner, HindiNumeralsCache.current());
+
+        inner.close();
+        assertSame(outer, HindiNumeralsCache.current());
+        toHindiNumerals("12");
+        assertEquals(1, outer.size());
+
+        outer.close();
+        assertNull(HindiNumeralsCache.current());
+        outer.close();
+    }
+
+    @Test
+    void testThreadsStartedWhileOpenUseTheCache() throws InterruptedException {
+        var closed = new CountDownLatch(1);
+        var afterClose = new AtomicReference<HindiNumeralsCache>();
+        Thread thread;
+        try (var cache = HindiNumeralsCache.open(16)) {
+            var subreportThread = new Thread(() -> toHindiNumerals("page 12"));
+            subreportThread.start();
+            subreportThread.join();
+            assertEquals(1, cache.size());
+
+            thread = new Thread(() -> {
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                afterClose.set(HindiNumeralsCache.current());
+            });
+            thread.start();
+        }
+        closed.countDown();
+        thread.join();
+        assertNull(afterClose.get());
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import net.sf.jasperreports.engine.JREmptyDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRPrintElement;
+import net.sf.jasperreports.engine.JRPrintFrame;
+import net.sf.jasperreports.engine.JRPrintPage;
+import net.sf.jasperreports.engine.JRPrintText;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.export.ooxml.JRXlsxExporter;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
+import net.sf.jasperreports.export.SimpleXlsxReportConfiguration;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HindiNumeralsXlsxFillTest {
+    @Test
+    void testSpreadsheetFillKeepsConvertedStrings() throws JRException {
+        var jasperPrint = fillForSpreadsheet();
+        var texts = texts(jasperPrint);
+        assertEquals("Account ١٢٣٤٥", texts.get("account").getFullText());
+        assertEquals("1,234.50", texts.get("amount").getFullText());
+
+        var configuration = new SimpleXlsxReportConfiguration();
+        HindiNumeralsXlsxSupport.configure(configuration, jasperPrint);
+        assertEquals("[$-2000000]#,##0.00", configuration.getFormatPatternsMap().get("#,##0.00"));
+    }
+
+    @Test
+    void testFieldsWithoutPatternGetCellPatterns() throws JRException {
+        var jasperPrint = fillForSpreadsheet();
+        HindiNumeralsXlsxSupport.configure(new SimpleXlsxReportConfiguration(), jasperPrint);
+        var texts = texts(jasperPrint);
+        assertNull(cellPattern(texts.get("count")));
+
+        HindiNumeralsXlsxSupport.setDefaultCellPatterns(jasperPrint);
+        assertEquals("1,234", texts.get("count").getFullText());
+        assertEquals("[$-2000000]#,##0", cellPattern(texts.get("count")));
+        var datePattern = cellPattern(texts.get("date"));
+        assertTrue(datePattern != null && datePattern.startsWith("[$-2000000]"), datePattern);
+        assertNull(cellPattern(texts.get("amount")));
+        assertNull(cellPattern(texts.get("account")));
+    }
+
+    @Test
+    void testSubreportFollowsSpreadsheetFill() throws JRException {
+        var jasperPrint = fillForSpreadsheet();
+        var texts = texts(jasperPrint);
+        assertEquals("99.5", texts.get("subreportAmount").getFullText());
+
+        var configuration = new SimpleXlsxReportConfiguration();
+        HindiNumeralsXlsxSupport.configure(configuration, jasperPrint);
+        assertEquals("[$-2000000]#,##0.0#", configuration.getFormatPatternsMap().get("#,##0.0#"));
+    }
+
+    @Test
+    void testXlsxExportKeepsNumericCells() throws Exception {
+        var jasperPrint = fillForSpreadsheet();
+        var configuration = new SimpleXlsxReportConfiguration();
+        HindiNumeralsXlsxSupport.configure(configuration, jasperPrint);
+        HindiNumeralsXlsxSupport.setDefaultCellPatterns(jasperPrint);
+        var output = new ByteArrayOutputStream();
+        var exporter = new JRXlsxExporter();
+        exporter.setExporterInput(new SimpleExporterInput(jasperPrint));
+        exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(output));
+        exporter.setConfiguration(configuration);
+        exporter.exportReport();
+
+        var entries = unzip(output.toByteArray());
+        var formats = numericCellFormats(parseXml(entries.get("xl/worksheets/sheet1.xml")), parseXml(entries.get("xl/styles.xml")));
+        assertEquals("[$-2000000]#,##0.00", formats.remove("1234.5"));
+        assertEquals("[$-2000000]#,##0", formats.remove("1234"));
+        assertEquals("[$-2000000]#,##0.0#", formats.remove("99.5"));
+        // the remaining numeric cell is the date, the account is a text cell
+        assertEquals(1, formats.size(), formats::toString);
+        var dateFormat = formats.values().iterator().next();
+        assertTrue(dateFormat.startsWith("[$-2000000]"), dateFormat);
+    }
+
+    /**
+     * @return map from the values of the numeric cells in the sheet to their format codes
+     * */
+    private static Map<String, String> numericCellFormats(Document sheet, Document styles) {
+        var formatCodes = new HashMap<String, String>();
+        var numFmts = styles.getElementsByTagName("numFmt");
+        for (int i = 0; i < numFmts.getLength(); i++) {
+            var numFmt = (Element) numFmts.item(i);
+            formatCodes.put(numFmt.getAttribute("numFmtId"), numFmt.getAttribute("formatCode"));
+        }
+        var cellStyles = ((Element) styles.getElementsByTagName("cellXfs").item(0)).getElementsByTagName("xf");
+        var formats = new HashMap<String, String>();
+        var cells = sheet.getElementsByTagName("c");
+        for (int i = 0; i < cells.getLength(); i++) {
+            var cell = (Element) cells.item(i);
+            var values = cell.getElementsByTagName("v");
+            var type = cell.getAttribute("t");
+            if (values.getLength() == 0 || !(type.isEmpty() || type.equals("n"))) {
+                continue;
+            }
+            var style = (Element) cellStyles.item(Integer.parseInt(cell.getAttribute("s")));
+            formats.put(values.item(0).getTextContent(), formatCodes.get(style.getAttribute("numFmtId")));
+        }
+        return formats;
+    }
+
+    private static Map<String, byte[]> unzip(byte[] bytes) throws IOException {
+        var entries = new HashMap<String, byte[]>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static Document parseXml(byte[] xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+
+    private static String cellPattern(JRPrintText text) {
+        return text.getPropertiesMap() == null ? null : text.getPropertiesMap().getProperty(HindiNumeralsXlsxSupport.PROPERTY_CELL_PATTERN);
+    }
+
+    private static JasperReport compile(String resource) throws JRException {
+        return JasperCompileManager.compileReport(HindiNumeralsXlsxFillTest.class.getResourceAsStream(resource));
+    }
+
+    private static JasperPrint fillForSpreadsheet() throws JRException {
+        var report = compile("/hindi-numerals-xlsx.jrxml");
+        var parameters = new HashMap<String, Object>();
+        parameters.put("SUBREPORT", compile("/hindi-numerals-xlsx-subreport.jrxml"));
+        parameters.put(JRParameter.REPORT_LOCALE, Locale.US);
+        HindiNumeralsXlsxSupport.spreadsheetFill(parameters);
+        return JasperFillManager.fillReport(report, parameters, new JREmptyDataSource());
+    }
+
+    private static Map<String, JRPrintText> texts(JasperPrint jasperPrint) {
+        var texts = new HashMap<String, JRPrintText>();
+        for (JRPrintPage page : jasperPrint.getPages()) {
+            collectTexts(page.getElements(), texts);
+        }
+        return texts;
+    }
+
+    private static void collectTexts(List<JRPrintElement> elements, Map<String, JRPrintText> texts) {
+        for (JRPrintElement element : elements) {
+            if (element instanceof JRPrintFrame) {
+                collectTexts(((JRPrintFrame) element).getElements(), texts);
+            } else if (element instanceof JRPrintText && element.getKey() != null) {
+                texts.put(element.getKey(), (JRPrintText) element);
+            }
+        }
+    }
+}
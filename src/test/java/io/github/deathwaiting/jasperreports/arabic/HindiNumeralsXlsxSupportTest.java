@@ -0,0 +1,71 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import net.sf.jasperreports.engine.JRParameter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+
+import static io.github.deathwaiting.jasperreports.arabic.HindiNumeralsXlsxSupport.toExcelDatePattern;
+import static io.github.deathwaiting.jasperreports.arabic.HindiNumeralsXlsxSupport.toExcelNumberPattern;
+import static java.time.ZoneOffset.UTC;
+import static java.util.TimeZone.getTimeZone;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HindiNumeralsXlsxSupportTest {
+    @Test
+    void testExcelNumberPatterns() {
+        assertEquals("[$-2000000]#,##0.00", toExcelNumberPattern("#,##0.00"));
+        assertEquals("[$-2000000]#,##0.00;[$-2000000](#,##0.00)", toExcelNumberPattern("#,##0.00;(#,##0.00)"));
+        assertEquals("[$-2000000]0.###E+0", toExcelNumberPattern("0.###E0"));
+        assertEquals("[$-2000000]#,##0\" EGP\"", toExcelNumberPattern("#,##0' EGP'"));
+        assertEquals("[$-2000000]#,##0", toExcelNumberPattern(""));
+    }
+
+    @Test
+    void testExcelNumberPatternAffixes() {
+        assertEquals("[$-2000000]#,##0 \"EGP\"", toExcelNumberPattern("#,##0 EGP"));
+        assertEquals("[$-2000000]\"EGP\" #,##0.00;[$-2000000]\"EGP\" -#,##0.00", toExcelNumberPattern("EGP #,##0.00;EGP -#,##0.00"));
+        assertEquals("[$-2000000]#,##0.0%", toExcelNumberPattern("#,##0.0%"));
+        assertEquals("[$-2000000]#,##0 \"\u062c\u0646\u064a\u0647\"", toExcelNumberPattern("#,##0 \u062c\u0646\u064a\u0647"));
+        assertEquals("[$-2000000]#,##0\"in\"\\\"", toExcelNumberPattern("#,##0in\""));
+    }
+
+    @Test
+    void testPerMillePatternIsRejected() {
+        var error = assertThrows(IllegalArgumentException.class, () -> toExcelNumberPattern("#,##0.0\u2030"));
+        assertEquals("the per mille sign has no Excel equivalent, in pattern: #,##0.0\u2030", error.getMessage());
+        assertEquals("[$-2000000]#,##0\" \u2030\"", toExcelNumberPattern("#,##0' \u2030'"));
+    }
+
+    @Test
+    void testExcelDatePatterns() {
+        assertEquals("[$-2000000]dd/MM/yyyy", toExcelDatePattern("dd/MM/yyyy"));
+        assertEquals("[$-2000000]dddd dd/MM/yyyy hh:mm AM/PM", toExcelDatePattern("EEEE dd/MM/yyyy hh:mm a"));
+        assertEquals("[$-2000000]yyyy-MM-dd\"T\"HH:mm:ss", toExcelDatePattern("yyyy-MM-dd'T'HH:mm:ssZ"));
+        assertEquals("[$-2000000]d/M/yyyy", toExcelDatePattern("d/M/y"));
+        assertEquals("[$-2000000]HH:mm yyyy", toExcelDatePattern("HH:mm z yyyy"));
+        assertEquals("[$-2000000]dd/MM", toExcelDatePattern("zzzz, dd/MM"));
+    }
+
+    @Test
+    void testExcelTimePatterns() {
+        assertEquals("[$-2000000]HH:mm:ss.000", toExcelDatePattern("HH:mm:ss.SSS"));
+        assertEquals("[$-2000000]HH:mm:ss.0", toExcelDatePattern("HH:mm:ss.S"));
+        assertEquals("[$-2000000]hh:mm AM/PM", toExcelDatePattern("hh:mm"));
+        assertEquals("[$-2000000]hh:mm AM/PM", toExcelDatePattern("hh:mm a"));
+        assertEquals("[$-2000000]HH:mm", toExcelDatePattern("kk:mm"));
+    }
+
+    @Test
+    void testSpreadsheetFillKeepsArabicNumerals() {
+        var parameters = HindiNumeralsXlsxSupport.spreadsheetFill(new HashMap<>());
+        var formatFactory = (HindiNumeralsFormatFactory) parameters.get(JRParameter.REPORT_FORMAT_FACTORY);
+        assertEquals("123", formatFactory.createNumberFormat("", Locale.getDefault()).format(123));
+        assertEquals("1970", formatFactory.createDateFormat("yyyy", Locale.ENGLISH, getTimeZone(UTC)).format(new Date(0L)));
+        assertEquals("bla ١٢٣", HindiNumeralsUtils.toHindiNumerals("bla 123"));
+        assertEquals("١٢٣", new HindiNumeralsFormatFactory().createNumberFormat("", Locale.getDefault()).format(123));
+    }
+}
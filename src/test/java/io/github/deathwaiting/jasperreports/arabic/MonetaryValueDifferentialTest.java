@@ -0,0 +1,177 @@
+package io.github.deathwaiting.jasperreports.arabic;
+
+import io.github.deathwaiting.jasperreports.arabic.MonetaryValue.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that {@link MonetaryValue} - the candidate - produces exactly the same arabic and english sentences as
+ * {@link ReferenceMonetaryValue} - the original implementation - for every currency, and reports the throughput of both.
+ * <p>
+ * The default ranges keep the test fast, the exhaustive ranges (all integer amounts up to 10,000,000 and a million
+ * random large amounts per currency) run with {@code mvn test -Pdifferential}, or by setting the
+ * {@code differential.maxInteger} and {@code differential.randomAmounts} system properties.
+ * */
+class MonetaryValueDifferentialTest {
+    private static final long MAX_INTEGER = Long.getLong("differential.maxInteger", 20_000L);
+    private static final long RANDOM_AMOUNTS = Long.getLong("differential.randomAmounts", 5_000L);
+    private static final long RANDOM_SEED = Long.getLong("differential.seed", 20231212L);
+    private static final long MAX_RANDOM_INTEGER = 1_000_000_000_000_000L;
+    private static final long[] INTEGER_PARTS = {0, 1, 2, 3, 10, 11, 99, 100, 101, 200, 1_000, 2_000, 3_000, 11_000,
+            100_000, 1_000_000, 2_000_000, 10_781_234, 1_000_000_000, 2_000_000_000};
+    private static final int THRESHOLD = 4_096;
+    private static final int MAX_REPORTED_MISMATCHES = 10;
+
+    private static final Engine REFERENCE = new Engine(
+            (value, currency) -> new ReferenceMonetaryValue(value, currency).asArabicSentence(),
+            (value, currency) -> new ReferenceMonetaryValue(value, currency).asEnglishSentence());
+    private static final Engine CANDIDATE = new Engine(MonetaryValue::inArabic, MonetaryValue::inEnglish);
+
+    @Test
+    void testIntegerAmounts() {
+        for (Currency currency : Currency.values()) {
+            verify("integer amounts", currency, MAX_INTEGER + 1, BigDecimal::valueOf);
+        }
+    }
+
+    @Test
+    void testFractionalParts() {
+        for (Currency currency : Currency.values()) {
+            int precision = ReferenceMonetaryValue.partPrecision(currency);
+            long fractions = BigDecimal.TEN.pow(precision).longValueExact();
+            verify("fractional parts", currency, INTEGER_PARTS.length * fractions,
+                    i -> BigDecimal.valueOf(INTEGER_PARTS[(int) (i / fractions)]).add(BigDecimal.valueOf(i % fractions, precision)));
+        }
+    }
+
+    @Test
+    void testRandomLargeAmounts() {
+        for (Currency currency : Currency.values()) {
+            int precision = ReferenceMonetaryValue.partPrecision(currency);
+            long fractions = BigDecimal.TEN.pow(precision).longValueExact();
+            verify("random amounts", currency, RANDOM_AMOUNTS, i -> {
+                var random = new SplittableRandom(RANDOM_SEED ^ (i * 0x9E3779B97F4A7C15L));
+                var integer = BigDecimal.valueOf(random.nextLong(MAX_RANDOM_INTEGER));
+                return integer.add(BigDecimal.valueOf(random.nextLong(fractions), precision));
+            });
+        }
+    }
+
+    private static void verify(String name, Currency currency, long count, LongFunction<BigDecimal> amounts) {
+        long start = System.nanoTime();
+        var result = ForkJoinPool.commonPool().invoke(new VerificationTask(currency, amounts, 0, count));
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s %s: %d amounts in %d ms, sentences per thread-second: reference %.0f, candidate %.0f%n",
+                currency, name, count, elapsed / 1_000_000,
+                throughput(2 * count, result.referenceNanos), throughput(2 * count, result.candidateNanos));
+        assertEquals(0, result.mismatches,
+                () -> String.format("%s %s: %d mismatching sentences, first ones:%n%s", currency, name,
+                        result.mismatches, String.join(System.lineSeparator(), result.reportedMismatches)));
+    }
+
+    private static double throughput(long sentences, long nanos) {
+        return nanos == 0 ? 0 : sentences * 1e9 / nanos;
+    }
+
+    private static class Engine {
+        private final BiFunction<BigDecimal, Currency, String> arabic;
+        private final BiFunction<BigDecimal, Currency, String> english;
+
+        private Engine(BiFunction<BigDecimal, Currency, String> arabic, BiFunction<BigDecimal, Currency, String> english) {
+            this.arabic = arabic;
+            this.english = english;
+        }
+
+        private long generate(Currency currency, BigDecimal[] amounts, String[] arabicSentences, String[] englishSentences) {
+            long start = System.nanoTime();
+            for (int i = 0; i < amounts.length; i++) {
+                arabicSentences[i] = arabic.apply(amounts[i], currency);
+                englishSentences[i] = english.apply(amounts[i], currency);
+            }
+            return System.nanoTime() - start;
+        }
+    }
+
+    private static class Result {
+        private long mismatches;
+        private long referenceNanos;
+        private long candidateNanos;
+        private final List<String> reportedMismatches = new ArrayList<>();
+
+        private void addMismatch(String language, BigDecimal amount, String expected, String actual) {
+            mismatches++;
+            if (reportedMismatches.size() < MAX_REPORTED_MISMATCHES) {
+                reportedMismatches.add(String.format("%s %s: expected <%s> but was <%s>", language, amount.toPlainString(), expected, actual));
+            }
+        }
+
+        private Result merge(Result other) {
+            mismatches += other.mismatches;
+            referenceNanos += other.referenceNanos;
+            candidateNanos += other.candidateNanos;
+            for (String mismatch : other.reportedMismatches) {
+                if (reportedMismatches.size() < MAX_REPORTED_MISMATCHES) {
+                    reportedMismatches.add(mismatch);
+                }
+            }
+            return this;
+        }
+    }
+
+    private static class VerificationTask extends RecursiveTask<Result> {
+        private final Currency currency;
+        private final LongFunction<BigDecimal> amounts;
+        private final long from;
+        private final long to;
+
+        private VerificationTask(Currency currency, LongFunction<BigDecimal> amounts, long from, long to) {
+            this.currency = currency;
+            this.amounts = amounts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from > THRESHOLD) {
+                long middle = (from + to) >>> 1;
+                var left = new VerificationTask(currency, amounts, from, middle);
+                left.fork();
+                var right = new VerificationTask(currency, amounts, middle, to).compute();
+                return left.join().merge(right);
+            }
+
+            int size = (int) (to - from);
+            var values = new BigDecimal[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = amounts.apply(from + i);
+            }
+            var expectedArabic = new String[size];
+            var expectedEnglish = new String[size];
+            var actualArabic = new String[size];
+            var actualEnglish = new String[size];
+            var result = new Result();
+            result.referenceNanos = REFERENCE.generate(currency, values, expectedArabic, expectedEnglish);
+            result.candidateNanos = CANDIDATE.generate(currency, values, actualArabic, actualEnglish);
+            for (int i = 0; i < size; i++) {
+                if (!expectedArabic[i].equals(actualArabic[i])) {
+                    result.addMismatch("arabic", values[i], expectedArabic[i], actualArabic[i]);
+                }
+                if (!expectedEnglish[i].equals(actualEnglish[i])) {
+                    result.addMismatch("english", values[i], expectedEnglish[i], actualEnglish[i]);
+                }
+            }
+            return result;
+        }
+    }
+}